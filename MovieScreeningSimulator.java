@@ -1,6 +1,8 @@
 import java.awt.*;
 import java.awt.event.ActionEvent;
 import java.awt.event.ActionListener;
+import java.awt.event.WindowAdapter;
+import java.awt.event.WindowEvent;
 import java.awt.image.BufferedImage;
 import java.io.File;
 import java.io.IOException;
@@ -8,9 +10,15 @@ import java.sql.Time;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.RejectedExecutionException;
 import java.util.concurrent.Semaphore;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
 import javax.imageio.ImageIO;
 import javax.swing.*;
@@ -23,28 +31,18 @@ public class MovieScreeningSimulator {
     private int N_CAPACITY;
     private int TE_MOVIE_DURATION_SECONDS;
 
-    // Semaphores
-    private Semaphore semSeats;
-    private Semaphore semAuditoriumMutex;
-    private Semaphore semDemonstratorWakeUp;
-    private Semaphore semMovieStarted;
-    private Semaphore semMovieFinished;
-    private Semaphore semAllFansLeft;
-
     // Shared state
-    private volatile int currentFanCountInAuditorium = 0;
-    private volatile int fansLeftThisSession = 0;
+    private volatile Session currentSession;
     private AtomicInteger fanIdCounter = new AtomicInteger(1);
     private final List<Fan> fanThreads = Collections.synchronizedList(new ArrayList<>());
-    private static boolean movieIsOn = false;
 
-    // Image resources
-    private Map<String, BufferedImage> characterImages;
-    private String[] characterColors = {
+    // Image resources (carregadas uma vez e compartilhadas por todas as salas)
+    private static Map<String, BufferedImage> characterImages;
+    private static final String[] characterColors = {
         "cor1", "cor2", "cor3", "cor4", "cor5",
         "cor6", "cor7", "cor8", "cor9", "cor10"
     };
-    private BufferedImage backgroundImage;
+    private static BufferedImage backgroundImage;
 
     // GUI Components
     private JFrame frame;
@@ -57,19 +55,89 @@ public class MovieScreeningSimulator {
     private VisualizacaoPanel visualizacaoPanel;
     private JTextArea logArea;
 
+    private JButton stopSimulationButton;
+    private JButton newVenueButton;
+    private JLabel resourceStatusLabel;
+
     private volatile boolean simulationRunning = false;
-    private Demonstrator demonstratorThread;
+    private boolean stopInProgress = false;
+
+    // Pool de workers compartilhado por todas as salas do processo (fãs e demonstradores)
+    private static final long STOP_TIMEOUT_MS = 2000;
+    // Cada sala tem um worker reservado para o demonstrador e no máximo
+    // MAX_FANS_PER_VENUE fãs, então uma sala lotada não impede as outras de rodar.
+    private static final int MAX_VENUES = 16;
+    private static final int MAX_FANS_PER_VENUE = 32;
+    private static final int MAX_SHARED_FAN_WORKERS = 240;
+    private static final int MAX_SHARED_WORKERS = MAX_SHARED_FAN_WORKERS + MAX_VENUES;
+    private static final Semaphore sharedFanSlots = new Semaphore(MAX_SHARED_FAN_WORKERS);
+    private static final AtomicInteger workerCounter = new AtomicInteger(1);
+    // Os semáforos acima já limitam as tarefas simultâneas; o pool fica sem teto
+    // porque uma thread que acabou de liberar suas vagas ainda conta como ocupada
+    // até voltar a esperar por trabalho.
+    private static final ThreadPoolExecutor workerPool = new ThreadPoolExecutor(
+        0, Integer.MAX_VALUE, 60L, TimeUnit.SECONDS, new SynchronousQueue<>(), r -> {
+            Thread t = new Thread(r, "worker-" + workerCounter.getAndIncrement());
+            t.setDaemon(true);
+            return t;
+        });
+    private static final AtomicInteger venueCounter = new AtomicInteger(1);
+    private static final AtomicInteger openVenues = new AtomicInteger(0);
+    private static final int VENUE_WINDOW_OFFSET = 30;
+    private static Point lastVenueLocation;
+
+    // Contabilidade de recursos desta sala
+    private final String venueName;
+    private final Object workersLock = new Object();
+    private final Set<Thread> workerThreads = new HashSet<>();
+    private int activeWorkers = 0;
+    private int peakWorkers = 0;
+    private long submittedWorkers = 0;
+    private long rejectedWorkers = 0;
+    private final Semaphore venueFanSlots = new Semaphore(MAX_FANS_PER_VENUE);
+    private final Semaphore demonstratorSlot = new Semaphore(1);
+    private long lastStopMillis = -1;
 
     public static void main(String[] args) {
-        SwingUtilities.invokeLater(MovieScreeningSimulator::new);
+        int venues = 1;
+        if (args.length > 0) {
+            try {
+                venues = Math.max(1, Integer.parseInt(args[0].trim()));
+            } catch (NumberFormatException ex) {
+                System.err.println("Número de salas inválido: " + args[0] + ". Usando 1.");
+            }
+        }
+        if (venues > MAX_VENUES) {
+            System.err.println("Máximo de " + MAX_VENUES + " salas por processo. Abrindo " + MAX_VENUES + " de " + venues + ".");
+            venues = MAX_VENUES;
+        }
+        final int venuesToOpen = venues;
+        SwingUtilities.invokeLater(() -> {
+            for (int i = 0; i < venuesToOpen; i++) {
+                openVenue(null);
+            }
+        });
+    }
+
+    private static void openVenue(Component parent) {
+        if (openVenues.get() >= MAX_VENUES) {
+            JOptionPane.showMessageDialog(parent, "Limite de " + MAX_VENUES + " salas abertas atingido.", "Aviso", JOptionPane.WARNING_MESSAGE);
+            return;
+        }
+        new MovieScreeningSimulator();
     }
 
     public MovieScreeningSimulator() {
+        venueName = "Sala " + venueCounter.getAndIncrement();
+        openVenues.incrementAndGet();
         loadImages();
         createAndShowGUI();
     }
 
-    private void loadImages() {
+    private static synchronized void loadImages() {
+        if (characterImages != null) {
+            return;
+        }
         characterImages = new HashMap<>();
         for (String color : characterColors) {
             try {
@@ -130,8 +198,14 @@ public class MovieScreeningSimulator {
     }
 
     private void createAndShowGUI() {
-        frame = new JFrame("Simulador de Exibição de Filme (Pelé)");
-        frame.setDefaultCloseOperation(JFrame.EXIT_ON_CLOSE);
+        frame = new JFrame("Simulador de Exibição de Filme (Pelé) - " + venueName);
+        frame.setDefaultCloseOperation(JFrame.DISPOSE_ON_CLOSE);
+        frame.addWindowListener(new WindowAdapter() {
+            @Override
+            public void windowClosed(WindowEvent e) {
+                closeVenue();
+            }
+        });
         frame.setLayout(new BorderLayout());
 
         JPanel inputPanel = new JPanel(new GridBagLayout());
@@ -150,7 +224,12 @@ public class MovieScreeningSimulator {
         gbc.gridx = 1; gbc.gridy = 1; inputPanel.add(movieTimeField, gbc);
 
         startSimulationButton = new JButton("Iniciar Simulação");
-        gbc.gridx = 0; gbc.gridy = 2; gbc.gridwidth = 2; inputPanel.add(startSimulationButton, gbc);
+        gbc.gridx = 0; gbc.gridy = 2; gbc.gridwidth = 1; inputPanel.add(startSimulationButton, gbc);
+
+        stopSimulationButton = new JButton("Parar Simulação");
+        stopSimulationButton.setEnabled(false);
+        gbc.gridx = 1; gbc.gridy = 2; inputPanel.add(stopSimulationButton, gbc);
+        gbc.gridx = 0; gbc.gridwidth = 2;
 
         gbc.gridy = 3; inputPanel.add(new JSeparator(), gbc);
 
@@ -162,6 +241,9 @@ public class MovieScreeningSimulator {
         addFanButton.setEnabled(false);
         gbc.gridx = 0; gbc.gridy = 5; gbc.gridwidth = 2; inputPanel.add(addFanButton, gbc);
 
+        newVenueButton = new JButton("Nova Sala");
+        gbc.gridy = 6; inputPanel.add(newVenueButton, gbc);
+
         logArea = new JTextArea(10, 25);
         logArea.setEditable(false);
         logArea.setFont(new Font("Monospaced", Font.PLAIN, 12));
@@ -170,11 +252,11 @@ public class MovieScreeningSimulator {
         JScrollPane logScrollPane = new JScrollPane(logArea);
         logScrollPane.setBorder(BorderFactory.createTitledBorder("Log de Eventos"));
         logScrollPane.setPreferredSize(new Dimension(280, 200));
-        inputPanel.setPreferredSize(new Dimension(280, 220));
+        inputPanel.setPreferredSize(new Dimension(280, 260));
 
 
         JSplitPane leftSplitPane = new JSplitPane(JSplitPane.VERTICAL_SPLIT, inputPanel, logScrollPane);
-        leftSplitPane.setDividerLocation(230);
+        leftSplitPane.setDividerLocation(270);
         leftSplitPane.setResizeWeight(0.4);
 
 
@@ -183,6 +265,11 @@ public class MovieScreeningSimulator {
         demonstratorStatusLabel.setBorder(BorderFactory.createEtchedBorder());
         statusPanelRight.add(demonstratorStatusLabel, BorderLayout.NORTH);
 
+        resourceStatusLabel = new JLabel("", SwingConstants.CENTER);
+        resourceStatusLabel.setBorder(BorderFactory.createEtchedBorder());
+        statusPanelRight.add(resourceStatusLabel, BorderLayout.SOUTH);
+        updateResourceStatus();
+
         visualizacaoPanel = new VisualizacaoPanel(backgroundImage);
         statusPanelRight.add(visualizacaoPanel, BorderLayout.CENTER);
 
@@ -193,20 +280,63 @@ public class MovieScreeningSimulator {
         frame.add(mainSplitPane, BorderLayout.CENTER);
 
         startSimulationButton.addActionListener(e -> startSimulation());
+        stopSimulationButton.addActionListener(e -> stopSimulation());
         addFanButton.addActionListener(e -> createFan());
+        newVenueButton.addActionListener(e -> openVenue(frame));
 
-        frame.setExtendedState(JFrame.MAXIMIZED_BOTH);
-        frame.setLocationRelativeTo(null);
+        frame.pack();
+        placeVenueWindow();
         frame.setVisible(true);
     }
 
+    // Cada nova sala abre deslocada da anterior para que fiquem visíveis lado a lado
+    private void placeVenueWindow() {
+        if (lastVenueLocation == null) {
+            frame.setLocationRelativeTo(null);
+        } else {
+            Rectangle screen = GraphicsEnvironment.getLocalGraphicsEnvironment().getMaximumWindowBounds();
+            int x = lastVenueLocation.x + VENUE_WINDOW_OFFSET;
+            int y = lastVenueLocation.y + VENUE_WINDOW_OFFSET;
+            if (x + frame.getWidth() > screen.x + screen.width) x = screen.x;
+            if (y + frame.getHeight() > screen.y + screen.height) y = screen.y;
+            frame.setLocation(x, y);
+        }
+        lastVenueLocation = frame.getLocation();
+    }
+
     private void log(String message) {
         SwingUtilities.invokeLater(() -> {
             if (logArea != null) {
                 logArea.append(message + "\n");
             }
         });
-        System.out.println(message);
+        System.out.println("[" + venueName + "] " + message);
+    }
+
+    private void updateResourceStatus() {
+        String status;
+        synchronized(workersLock) {
+            status = venueName + " | Workers ativos: " + activeWorkers + " (pico " + peakWorkers + ")"
+                + " | Fãs: " + (MAX_FANS_PER_VENUE - venueFanSlots.availablePermits()) + "/" + MAX_FANS_PER_VENUE
+                + " | Criados: " + submittedWorkers + " | Recusados: " + rejectedWorkers;
+        }
+        final String text = status + " | Pool compartilhado: " + workerPool.getActiveCount() + "/" + MAX_SHARED_WORKERS;
+        SwingUtilities.invokeLater(() -> {
+            if (resourceStatusLabel != null) {
+                resourceStatusLabel.setText(text);
+            }
+        });
+    }
+
+    private void closeVenue() {
+        if (simulationRunning) {
+            stopSimulation();
+        }
+        if (visualizacaoPanel != null) visualizacaoPanel.stopAnimation();
+        if (openVenues.decrementAndGet() == 0) {
+            workerPool.shutdownNow();
+            System.exit(0);
+        }
     }
 
     private void updateDemonstratorStatus(String status) {
@@ -221,7 +351,7 @@ public class MovieScreeningSimulator {
     }
 
     private void startSimulation() {
-        if (simulationRunning) {
+        if (simulationRunning || stopInProgress) {
             log("Simulação já está em execução.");
             return;
         }
@@ -232,20 +362,16 @@ public class MovieScreeningSimulator {
                 JOptionPane.showMessageDialog(frame, "N e Te devem ser positivos.", "Erro", JOptionPane.ERROR_MESSAGE);
                 return;
             }
+            if (N_CAPACITY > MAX_FANS_PER_VENUE) {
+                JOptionPane.showMessageDialog(frame, "N não pode passar de " + MAX_FANS_PER_VENUE + " (limite de fãs por sala).", "Erro", JOptionPane.ERROR_MESSAGE);
+                return;
+            }
         } catch (NumberFormatException ex) {
             JOptionPane.showMessageDialog(frame, "Valores inválidos para N ou Te.", "Erro", JOptionPane.ERROR_MESSAGE);
             return;
         }
 
-        semSeats = new Semaphore(N_CAPACITY, true);
-        semAuditoriumMutex = new Semaphore(1, true);
-        semDemonstratorWakeUp = new Semaphore(0, true);
-        semMovieStarted = new Semaphore(0, true);
-        //semMovieFinished = new Semaphore(0, true);
-        semAllFansLeft = new Semaphore(0, true);
-
-        currentFanCountInAuditorium = 0;
-        fansLeftThisSession = 0;
+        Session session = new Session(N_CAPACITY, TE_MOVIE_DURATION_SECONDS);
         fanIdCounter.set(1);
 
         synchronized(fanThreads) {
@@ -254,21 +380,168 @@ public class MovieScreeningSimulator {
         if(visualizacaoPanel != null) visualizacaoPanel.clearFans();
         if(logArea != null) logArea.setText("");
 
+        currentSession = session;
         simulationRunning = true;
-        startSimulationButton.setEnabled(false);
-        addFanButton.setEnabled(true);
-        capacityField.setEnabled(false);
-        movieTimeField.setEnabled(false);
+        setControlsRunning(true);
 
         log("==== SIMULAÇÃO INICIADA ====");
         log("Capacidade do Auditório (N): " + N_CAPACITY);
         log("Tempo do Filme (Te): " + TE_MOVIE_DURATION_SECONDS + "s");
 
-        demonstratorThread = new Demonstrator();
-        demonstratorThread.start();
+        if (lastStopMillis >= 0) {
+            log("Parada anterior concluída em " + lastStopMillis + " ms.");
+        }
+        log("Workers ociosos no pool compartilhado (todas as salas, aproximado): " + (workerPool.getPoolSize() - workerPool.getActiveCount()) + ".");
+        if (!submitWorker(new Demonstrator(session), "Demonstrador", session, demonstratorSlot)) {
+            log("ERRO: não foi possível iniciar o demonstrador.");
+            stopSimulation();
+            return;
+        }
         updateDemonstratorStatus("Aguardando Lotação (0/" + N_CAPACITY + ")");
     }
 
+    private void stopSimulation() {
+        if (!simulationRunning) {
+            log("Nenhuma simulação em execução.");
+            return;
+        }
+        final long stopStart = System.nanoTime();
+        simulationRunning = false;
+        currentSession.movieIsOn = false;
+        stopInProgress = true;
+        startSimulationButton.setEnabled(false);
+        stopSimulationButton.setEnabled(false);
+        addFanButton.setEnabled(false);
+        log("==== PARANDO SIMULAÇÃO ====");
+
+        // Interrompe e aguarda os workers fora da EDT para não congelar a janela
+        new SwingWorker<Integer, Void>() {
+            @Override
+            protected Integer doInBackground() {
+                synchronized(workersLock) {
+                    for (Thread worker : workerThreads) {
+                        worker.interrupt();
+                    }
+                    long deadline = System.currentTimeMillis() + STOP_TIMEOUT_MS;
+                    long remaining = STOP_TIMEOUT_MS;
+                    while (activeWorkers > 0 && remaining > 0) {
+                        try {
+                            workersLock.wait(remaining);
+                        } catch (InterruptedException e) {
+                            Thread.currentThread().interrupt();
+                            break;
+                        }
+                        remaining = deadline - System.currentTimeMillis();
+                    }
+                    return activeWorkers;
+                }
+            }
+
+            @Override
+            protected void done() {
+                int remainingWorkers;
+                try {
+                    remainingWorkers = get();
+                } catch (Exception e) {
+                    synchronized(workersLock) {
+                        remainingWorkers = activeWorkers;
+                    }
+                }
+                lastStopMillis = (System.nanoTime() - stopStart) / 1_000_000;
+                if (remainingWorkers > 0) {
+                    log("AVISO: " + remainingWorkers + " worker(s) não encerraram em " + STOP_TIMEOUT_MS + " ms.");
+                }
+                log("==== SIMULAÇÃO PARADA em " + lastStopMillis + " ms ====");
+                if (visualizacaoPanel != null) visualizacaoPanel.clearFans();
+                stopInProgress = false;
+                setControlsRunning(false);
+            }
+        }.execute();
+    }
+
+    private void setControlsRunning(boolean running) {
+        startSimulationButton.setEnabled(!running);
+        stopSimulationButton.setEnabled(running);
+        addFanButton.setEnabled(running);
+        capacityField.setEnabled(!running);
+        movieTimeField.setEnabled(!running);
+    }
+
+    private boolean isSessionActive(Session session) {
+        return simulationRunning && session == currentSession;
+    }
+
+    /**
+     * Executa a tarefa em um worker do pool compartilhado, ocupando uma vaga
+     * de cada semáforo em {@code slots} até a tarefa terminar. Tarefas de uma
+     * sessão antiga são descartadas e o estado de interrupção é limpo antes
+     * de a thread voltar ao pool. Retorna false se não houver vaga.
+     */
+    private boolean submitWorker(Runnable task, String name, Session session, Semaphore... slots) {
+        int acquired = 0;
+        while (acquired < slots.length && slots[acquired].tryAcquire()) {
+            acquired++;
+        }
+        if (acquired < slots.length) {
+            releaseSlots(slots, acquired);
+            synchronized(workersLock) {
+                rejectedWorkers++;
+            }
+            log("Sem vaga para " + name + " (limite da sala ou do pool compartilhado atingido).");
+            updateResourceStatus();
+            return false;
+        }
+        synchronized(workersLock) {
+            activeWorkers++;
+            submittedWorkers++;
+            peakWorkers = Math.max(peakWorkers, activeWorkers);
+        }
+        try {
+            workerPool.execute(() -> {
+                Thread current = Thread.currentThread();
+                String poolName = current.getName();
+                synchronized(workersLock) {
+                    workerThreads.add(current);
+                }
+                try {
+                    if (isSessionActive(session)) {
+                        current.setName(poolName + " (" + name + ")");
+                        task.run();
+                    }
+                } finally {
+                    current.setName(poolName);
+                    releaseSlots(slots, slots.length);
+                    synchronized(workersLock) {
+                        workerThreads.remove(current);
+                        activeWorkers--;
+                        workersLock.notifyAll();
+                    }
+                    updateResourceStatus();
+                    Thread.interrupted();
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            releaseSlots(slots, slots.length);
+            log("Pool compartilhado recusou " + name + ".");
+            synchronized(workersLock) {
+                activeWorkers--;
+                submittedWorkers--;
+                rejectedWorkers++;
+                workersLock.notifyAll();
+            }
+            updateResourceStatus();
+            return false;
+        }
+        updateResourceStatus();
+        return true;
+    }
+
+    private static void releaseSlots(Semaphore[] slots, int count) {
+        for (int i = 0; i < count; i++) {
+            slots[i].release();
+        }
+    }
+
     private void createFan() {
         if (!simulationRunning) {
             JOptionPane.showMessageDialog(frame, "Inicie a simulação primeiro.", "Aviso", JOptionPane.WARNING_MESSAGE);
@@ -290,69 +563,110 @@ public class MovieScreeningSimulator {
         String fanColorName = characterColors[(fanIdCounter.get() - 1) % characterColors.length];
         BufferedImage fanImage = characterImages.get(fanColorName);
 
-        Fan fan = new Fan(fanId, tlFanLunchTime, fanImage);
+        Session session = currentSession;
+        Fan fan = new Fan(fanId, tlFanLunchTime, fanImage, session);
         fanIdCounter.getAndIncrement();
 
         fanThreads.add(fan);
         if (visualizacaoPanel != null) visualizacaoPanel.addFanSprite(fan);
-        fan.start();
+        if (!submitWorker(fan, fanId, session, venueFanSlots, sharedFanSlots)) {
+            fanThreads.remove(fan);
+            if (visualizacaoPanel != null) visualizacaoPanel.removeFanSprite(fan);
+            log(fanId + " não foi criado.");
+            return;
+        }
         log(fanId + " (imagem: "+ fanColorName +".png) criado (Tl=" + tlFanLunchTime + "s).");
     }
 
-    class Demonstrator extends Thread {
+    /**
+     * Estado de uma execução da simulação. Fãs e demonstrador recebem a sua
+     * sessão no construtor, então tarefas que sobrevivem a uma parada só
+     * conseguem tocar nos semáforos e contadores da sessão antiga.
+     */
+    static class Session {
+        final int capacity;
+        final int movieDurationSeconds;
+
+        final Semaphore semSeats;
+        final Semaphore semAuditoriumMutex = new Semaphore(1, true);
+        final Semaphore semDemonstratorWakeUp = new Semaphore(0, true);
+        final Semaphore semMovieStarted = new Semaphore(0, true);
+        //final Semaphore semMovieFinished = new Semaphore(0, true);
+        final Semaphore semAllFansLeft = new Semaphore(0, true);
+
+        volatile int currentFanCountInAuditorium = 0;
+        volatile int fansLeftThisSession = 0;
+        volatile boolean movieIsOn = false;
+
+        // Momento do pedido de início, usado para medir o tempo até o demonstrador rodar
+        final long startRequestedNanos = System.nanoTime();
+
+        Session(int capacity, int movieDurationSeconds) {
+            this.capacity = capacity;
+            this.movieDurationSeconds = movieDurationSeconds;
+            this.semSeats = new Semaphore(capacity, true);
+        }
+    }
+
+    class Demonstrator implements Runnable {
+        private final Session session;
+
+        public Demonstrator(Session session) {
+            this.session = session;
+        }
+
         @Override
         public void run() {
+            long restartMillis = (System.nanoTime() - session.startRequestedNanos) / 1_000_000;
             log("DEMONSTRADOR: Thread iniciada.");
-            while (simulationRunning) {
+            log("Simulação iniciada em " + restartMillis + " ms (do pedido até o demonstrador rodar).");
+            while (isSessionActive(session)) {
                 try {
-                    log("DEMONSTRADOR: Aguardando auditório encher (" + currentFanCountInAuditorium + "/" + N_CAPACITY +")...");
-                    semDemonstratorWakeUp.acquire();
+                    log("DEMONSTRADOR: Aguardando auditório encher (" + session.currentFanCountInAuditorium + "/" + session.capacity +")...");
+                    session.semDemonstratorWakeUp.acquire();
 
-                    String showingStatus = "Exibindo Filme (" + currentFanCountInAuditorium + "/" + N_CAPACITY + ")";
+                    String showingStatus = "Exibindo Filme (" + session.currentFanCountInAuditorium + "/" + session.capacity + ")";
                     updateDemonstratorStatus(showingStatus);
-                    log("DEMONSTRADOR: Auditório lotado ("+ currentFanCountInAuditorium + "/" + N_CAPACITY + "). Iniciando filme...");
+                    log("DEMONSTRADOR: Auditório lotado ("+ session.currentFanCountInAuditorium + "/" + session.capacity + "). Iniciando filme...");
 
-                    log("DEMONSTRADOR: Exibindo filme por " + TE_MOVIE_DURATION_SECONDS + "s...");
-                    movieIsOn = true;
+                    log("DEMONSTRADOR: Exibindo filme por " + session.movieDurationSeconds + "s...");
+                    session.movieIsOn = true;
                     long tempoInicio = System.currentTimeMillis();
                     int contadorLog = 0;
 
-                    semMovieStarted.release(N_CAPACITY);
-                    while ((System.currentTimeMillis() - tempoInicio) < TE_MOVIE_DURATION_SECONDS * 1000L) {
+                    session.semMovieStarted.release(session.capacity);
+                    while (isSessionActive(session) && (System.currentTimeMillis() - tempoInicio) < session.movieDurationSeconds * 1000L) {
                         if (contadorLog++ % 100000000 == 0) { //Exibe log a cada 100.000.000 iterações
                             long segundosDecorridos = (System.currentTimeMillis() - tempoInicio) / 1000;
-                            long segundosRestantes = TE_MOVIE_DURATION_SECONDS - segundosDecorridos;
+                            long segundosRestantes = session.movieDurationSeconds - segundosDecorridos;
                             log("DEMONSTRADOR: Filme em progresso (" + segundosRestantes + "s restantes)");
                         }
                     }
 
-                    movieIsOn = false;
+                    session.movieIsOn = false;
+                    if (!isSessionActive(session)) break;
                     log("DEMONSTRADOR: Filme encerrado.");
-                    //semMovieFinished.release(N_CAPACITY);
+                    //semMovieFinished.release(session.capacity);
                     updateDemonstratorStatus("Aguardando Esvaziar");
 
-                    log("DEMONSTRADOR: Aguardando todos os " + N_CAPACITY + " fãs saírem...");
-                    semAllFansLeft.acquire();
+                    log("DEMONSTRADOR: Aguardando todos os " + session.capacity + " fãs saírem...");
+                    session.semAllFansLeft.acquire();
                     log("DEMONSTRADOR: Auditório vazio. Preparando para próxima sessão.");
-                    updateDemonstratorStatus("Aguardando Lotação (0/" + N_CAPACITY + ")");
+                    updateDemonstratorStatus("Aguardando Lotação (0/" + session.capacity + ")");
                 } catch (InterruptedException e) {
                     log("DEMONSTRADOR: Thread interrompida.");
-                    simulationRunning = false;
                     break;
                 }
             }
             updateDemonstratorStatus("Ocioso (Simulação Encerrada)");
             log("DEMONSTRADOR: Thread finalizada.");
-            if (startSimulationButton != null) startSimulationButton.setEnabled(true);
-            if (addFanButton != null) addFanButton.setEnabled(false);
-            if (capacityField != null) capacityField.setEnabled(true);
-            if (movieTimeField != null) movieTimeField.setEnabled(true);
         }
     }
 
-    class Fan extends Thread {
+    class Fan implements Runnable {
         private final String fanId;
         private final int tlLunchTimeSeconds;
+        private final Session session;
         public BufferedImage image;
         public int x, y;
         public int targetX, targetY;
@@ -360,9 +674,10 @@ public class MovieScreeningSimulator {
         private boolean moving;
         private boolean visible = true;
 
-        public Fan(String fanId, int tlLunchTime, BufferedImage image) {
+        public Fan(String fanId, int tlLunchTime, BufferedImage image, Session session) {
             this.fanId = fanId;
             this.tlLunchTimeSeconds = tlLunchTime;
+            this.session = session;
             this.image = image;
             this.currentStatusForVisuals = "Na fila";
 
@@ -391,57 +706,58 @@ public class MovieScreeningSimulator {
         public void run() {
             log(fanId + ": Thread iniciada (Lanche=" + tlLunchTimeSeconds + "s). Imagem: " + (image != null ? "Carregada" : "NÃO CARREGADA"));
             try {
-                while (simulationRunning) {
+                while (isSessionActive(session)) {
                     setVisualStatus("Na fila");
                     log(fanId + ": Na fila para entrar.");
-                    semSeats.acquire();
+                    session.semSeats.acquire();
                     log(fanId + ": Conseguiu permissão de 'assento geral'. Tentando entrar no auditório.");
 
-                    semAuditoriumMutex.acquire();
-                    currentFanCountInAuditorium++;
-                    log(fanId + ": Entrou no auditório. Total: " + currentFanCountInAuditorium + "/" + N_CAPACITY);
+                    session.semAuditoriumMutex.acquire();
+                    session.currentFanCountInAuditorium++;
+                    log(fanId + ": Entrou no auditório. Total: " + session.currentFanCountInAuditorium + "/" + session.capacity);
                     if (visualizacaoPanel != null) SwingUtilities.invokeLater(visualizacaoPanel::repaint);
                     setVisualStatus("Aguardando filme");
 
 
-                    if (currentFanCountInAuditorium == N_CAPACITY) {
-                        log(fanId + ": Eu sou o " + N_CAPACITY + "º fã! Avisando o demonstrador.");
-                        semDemonstratorWakeUp.release();
+                    if (session.currentFanCountInAuditorium == session.capacity) {
+                        log(fanId + ": Eu sou o " + session.capacity + "º fã! Avisando o demonstrador.");
+                        session.semDemonstratorWakeUp.release();
                     }
-                    semAuditoriumMutex.release();
+                    session.semAuditoriumMutex.release();
 
                     log(fanId + ": Esperando o filme começar...");
-                    semMovieStarted.acquire();
+                    session.semMovieStarted.acquire();
                     int contadorLog = 0;
                     setVisualStatus("Assistindo filme");
-                    while(movieIsOn == true){
+                    while(session.movieIsOn == true && isSessionActive(session)){
                         if (contadorLog++ % 100000000 == 0) { //Exibe log a cada 100.000.000 iterações
 
                             log(fanId + ": Filme começou! Assistindo...");
                         }
                     }
                     //semMovieFinished.acquire();
+                    if (!isSessionActive(session)) break;
 
-                    semAuditoriumMutex.acquire();
-                    currentFanCountInAuditorium--;
-                    fansLeftThisSession++;
+                    session.semAuditoriumMutex.acquire();
+                    session.currentFanCountInAuditorium--;
+                    session.fansLeftThisSession++;
                     if (visualizacaoPanel != null) SwingUtilities.invokeLater(visualizacaoPanel::repaint);
                     setVisualStatus("Saindo para lanchar");
-                    log(fanId + ": Filme acabou. Saiu do auditório. (" + fansLeftThisSession + "/" + N_CAPACITY + " saíram desta sessão)");
-                    if (fansLeftThisSession == N_CAPACITY) {
-                        log(fanId + ": Eu sou o último a sair desta sessão (" + N_CAPACITY + "/" + N_CAPACITY + "). Avisando o demonstrador que esvaziou.");
-                        semAllFansLeft.release();
-                        fansLeftThisSession = 0;
+                    log(fanId + ": Filme acabou. Saiu do auditório. (" + session.fansLeftThisSession + "/" + session.capacity + " saíram desta sessão)");
+                    if (session.fansLeftThisSession == session.capacity) {
+                        log(fanId + ": Eu sou o último a sair desta sessão (" + session.capacity + "/" + session.capacity + "). Avisando o demonstrador que esvaziou.");
+                        session.semAllFansLeft.release();
+                        session.fansLeftThisSession = 0;
                     }
-                    semAuditoriumMutex.release();
+                    session.semAuditoriumMutex.release();
 
-                    semSeats.release();
+                    session.semSeats.release();
                     log(fanId + ": Terminou de assistir. Devolvendo 'assento geral' e indo lanchar.");
 
                     setVisualStatus("Lanchando");  
                     long tempoInicio = System.currentTimeMillis();     
                     contadorLog = 0;               
-                    while ((System.currentTimeMillis() - tempoInicio) < tlLunchTimeSeconds * 1000L) {
+                    while (isSessionActive(session) && (System.currentTimeMillis() - tempoInicio) < tlLunchTimeSeconds * 1000L) {
                         if (contadorLog++ % 100000000 == 0) { //Exibe log a cada 100.000.000 iterações
                                 long segundosDecorridos = (System.currentTimeMillis() - tempoInicio) / 1000;
                                 long segundosRestantes = tlLunchTimeSeconds - segundosDecorridos;
@@ -480,6 +796,8 @@ public class MovieScreeningSimulator {
         private static final int IMAGE_TARGET_WIDTH = 45;
         private static final int IMAGE_TARGET_HEIGHT = 60;
         private static final int Y_SPACING = 60;
+        private static final int X_SPACING = IMAGE_TARGET_WIDTH + 5;
+        private static final int PANEL_HEIGHT = 640;
 
         // Ponto de entrada fixo para novos fãs
         public static final int PONTO_ENTRADA_X = AREA_FILA_X;
@@ -493,7 +811,7 @@ public class MovieScreeningSimulator {
 
         public VisualizacaoPanel(BufferedImage backgroundImage) {
             this.panelBackgroundImage = backgroundImage;
-            this.setPreferredSize(new Dimension(600, 450));
+            this.setPreferredSize(new Dimension(640, PANEL_HEIGHT));
             if (this.panelBackgroundImage == null) {
                 this.setBackground(new Color(20, 20, 20));
             }
@@ -517,14 +835,15 @@ public class MovieScreeningSimulator {
                  for(Fan existingFan : fansToDraw) {
                     if(existingFan == fan) continue;
                     if("Na fila".equals(existingFan.getVisualStatus()) &&
-                       ( (existingFan.targetX == AREA_FILA_X && existingFan.targetY >= AREA_Y_BOTTOM) ||
-                         (!existingFan.isMoving() && existingFan.x == AREA_FILA_X && existingFan.y >= AREA_Y_BOTTOM) ) ) {
+                       ( isInQueueArea(existingFan.targetX, existingFan.targetY) ||
+                         (!existingFan.isMoving() && isInQueueArea(existingFan.x, existingFan.y)) ) ) {
                         queueIndex++;
                     }
                 }
             }
-            fan.targetX = AREA_FILA_X;
-            fan.targetY = AREA_Y_BOTTOM + (queueIndex * Y_SPACING);
+            Point slot = slotPosition(AREA_FILA_X, AREA_Y_BOTTOM, queueIndex);
+            fan.targetX = slot.x;
+            fan.targetY = slot.y;
 
             if (fan.x != fan.targetX || fan.y != fan.targetY) {
                 fan.setMoving(true);
@@ -534,6 +853,17 @@ public class MovieScreeningSimulator {
         }
 
 
+        private boolean isInQueueArea(int x, int y) {
+            return x >= AREA_FILA_X && x < AREA_LANCHONETE_X && y >= AREA_Y_BOTTOM;
+        }
+
+        // Empilha os fãs de uma área em colunas para que caibam na altura do painel
+        private Point slotPosition(int areaX, int areaTopY, int index) {
+            int panelHeight = getHeight() > 0 ? getHeight() : PANEL_HEIGHT;
+            int rows = Math.max(1, (panelHeight - IMAGE_TARGET_HEIGHT - areaTopY) / Y_SPACING + 1);
+            return new Point(areaX + (index / rows) * X_SPACING, areaTopY + (index % rows) * Y_SPACING);
+        }
+
         public void removeFanSprite(Fan fan) {
             synchronized(fansToDraw) {
                 fansToDraw.remove(fan);
@@ -541,6 +871,10 @@ public class MovieScreeningSimulator {
             repaint();
         }
 
+        public void stopAnimation() {
+            animationTimer.stop();
+        }
+
         public void clearFans() {
             synchronized(fansToDraw) {
                 fansToDraw.clear();
@@ -584,11 +918,13 @@ public class MovieScreeningSimulator {
                 }
             }
 
+            Point slot;
             switch (targetStatus) {
                 case "Na fila":
                     fan.visible = true;
-                    fan.targetX = AREA_FILA_X;
-                    fan.targetY = AREA_Y_BOTTOM + (positionIndex * Y_SPACING);
+                    slot = slotPosition(AREA_FILA_X, AREA_Y_BOTTOM, positionIndex);
+                    fan.targetX = slot.x;
+                    fan.targetY = slot.y;
                     break;
 
                 case "Aguardando filme":
@@ -596,15 +932,17 @@ public class MovieScreeningSimulator {
                     break;
                 case "Assistindo filme":
                     fan.visible = false;
-                    fan.targetX = AREA_AUDITORIO_X;
-                    fan.targetY = AREA_Y_START_TOP + (positionIndex * Y_SPACING);
+                    slot = slotPosition(AREA_AUDITORIO_X, AREA_Y_START_TOP, positionIndex);
+                    fan.targetX = slot.x;
+                    fan.targetY = slot.y;
                     break;
 
                 case "Saindo para lanchar":
                 case "Lanchando":
                     fan.visible = true;
-                    fan.targetX = AREA_LANCHONETE_X;
-                    fan.targetY = AREA_Y_START_TOP + (positionIndex * Y_SPACING);
+                    slot = slotPosition(AREA_LANCHONETE_X, AREA_Y_START_TOP, positionIndex);
+                    fan.targetX = slot.x;
+                    fan.targetY = slot.y;
                     break;
 
                 default:
@@ -662,10 +1000,11 @@ public class MovieScreeningSimulator {
 
             // (As áreas coloridas de fundo foram removidas na versão anterior, conforme pedido)
 
-            if (MovieScreeningSimulator.this.N_CAPACITY > 0) {
+            Session session = MovieScreeningSimulator.this.currentSession;
+            if (session != null) {
                 g2d.setColor(Color.ORANGE);
                 g2d.setFont(new Font("SansSerif", Font.BOLD, 18));
-                String auditoriumStatusText = "Auditório: " + MovieScreeningSimulator.this.currentFanCountInAuditorium + "/" + MovieScreeningSimulator.this.N_CAPACITY;
+                String auditoriumStatusText = "Auditório: " + session.currentFanCountInAuditorium + "/" + session.capacity;
                 FontMetrics fmStatus = g2d.getFontMetrics();
                 // int statusTextWidth = fmStatus.stringWidth(auditoriumStatusText); // Não usado se não centralizar horizontalmente
                 g2d.drawString(auditoriumStatusText, AREA_AUDITORIO_X, AREA_Y_START_TOP - fmStatus.getDescent() - 10);